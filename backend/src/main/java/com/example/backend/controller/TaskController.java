@@ -2,6 +2,7 @@ package com.example.backend.controller;
 
 import com.example.backend.exception.TaskNotFoundException;
 import com.example.backend.model.Task;
+import com.example.backend.model.TaskHistory;
 import com.example.backend.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +31,12 @@ public class TaskController {
     }
     
 
+    // Get Task change history
+    @GetMapping("/{id}/history")
+    public List<TaskHistory> getTaskHistory(@PathVariable("id") Long id) {
+        return taskService.getTaskHistory(id);
+    }
+
     // Get All Tasks
     @GetMapping
     public List<Task> getAllTasks() {
@@ -0,0 +1,33 @@
+package com.example.backend.event;
+
+/**
+ * Change to a task, as received over the shared notification channel.
+ * Published locally as a Spring application event so caches and feeds can
+ * react with {@code @EventListener}.
+ *
+ * @param type   kind of change
+ * @param taskId id of the changed task, or {@code null} for {@link Type#RESYNC}
+ * @param origin node id of the instance that made the change
+ */
+public record TaskChangeEvent(Type type, Long taskId, String origin) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        /** Notifications may have been missed; drop all locally derived task state. */
+        RESYNC
+    }
+
+    // Compact wire format: TYPE:taskId:origin
+    String toPayload() {
+        return type + ":" + (taskId == null ? "" : taskId) + ":" + origin;
+    }
+
+    static TaskChangeEvent fromPayload(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed task change payload: " + payload);
+        }
+        Long taskId = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+        return new TaskChangeEvent(Type.valueOf(parts[0]), taskId, parts[2]);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.backend.event;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Holds a dedicated connection that {@code LISTEN}s on the task change channel
+ * and republishes every notification as a local {@link TaskChangeEvent}.
+ * <p>
+ * The connection is opened outside the Hikari pool so it never takes capacity
+ * from request traffic. A half-open connection (failover, idle NAT drop) just
+ * returns no notifications, so the connection is probed with {@code SELECT 1}
+ * whenever it has been quiet for {@code probe-interval-ms}. If the connection
+ * drops, notifications sent in the meantime are lost, so a
+ * {@link TaskChangeEvent.Type#RESYNC} event is published after reconnecting.
+ */
+@Component
+public class TaskChangeListener implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeListener.class);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangePublisher changePublisher;
+    private final boolean enabled;
+    private final int pollTimeoutMs;
+    private final long reconnectDelayMs;
+    private final long probeIntervalMs;
+    private final int socketTimeoutS;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TaskChangeListener(DataSourceProperties dataSourceProperties,
+                              ApplicationEventPublisher eventPublisher,
+                              TaskChangePublisher changePublisher,
+                              @Value("${tasks.events.enabled:true}") boolean enabled,
+                              @Value("${tasks.events.poll-timeout-ms:500}") int pollTimeoutMs,
+                              @Value("${tasks.events.reconnect-delay-ms:2000}") long reconnectDelayMs,
+                              @Value("${tasks.events.probe-interval-ms:10000}") long probeIntervalMs,
+                              @Value("${tasks.events.socket-timeout-s:10}") int socketTimeoutS) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.changePublisher = changePublisher;
+        this.enabled = enabled;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.probeIntervalMs = probeIntervalMs;
+        this.socketTimeoutS = socketTimeoutS;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("task-change-listener-" + changePublisher.getNodeId())
+                .daemon(true)
+                .start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(pollTimeoutMs + socketTimeoutS * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Connection openConnection() throws SQLException {
+        Properties properties = new Properties();
+        if (dataSourceProperties.determineUsername() != null) {
+            properties.setProperty("user", dataSourceProperties.determineUsername());
+        }
+        if (dataSourceProperties.determinePassword() != null) {
+            properties.setProperty("password", dataSourceProperties.determinePassword());
+        }
+        properties.setProperty("tcpKeepAlive", "true");
+        // Bounds how long the liveness probe can block on a dead socket
+        properties.setProperty("socketTimeout", String.valueOf(socketTimeoutS));
+        properties.setProperty("ApplicationName", "task-change-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = openConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    // Channel name is validated by TaskChangePublisher, so it is safe to use unquoted
+                    statement.execute("LISTEN " + changePublisher.getChannel());
+                }
+                if (reconnecting) {
+                    publishLocally(new TaskChangeEvent(TaskChangeEvent.Type.RESYNC, null, changePublisher.getNodeId()));
+                }
+                reconnecting = true;
+                long lastActivity = System.nanoTime();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null && notifications.length > 0) {
+                        lastActivity = System.nanoTime();
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    } else if (System.nanoTime() - lastActivity >= probeIntervalMs * 1_000_000L) {
+                        // Throws on a dead connection, which triggers reconnect and RESYNC
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        lastActivity = System.nanoTime();
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                // Any failure reconnects rather than ending the thread, which would silently stop invalidations
+                if (!running) {
+                    return;
+                }
+                log.warn("Task change listener failed, reconnecting in {} ms", reconnectDelayMs, e);
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        TaskChangeEvent event;
+        try {
+            event = TaskChangeEvent.fromPayload(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed task change notification '{}'", payload, e);
+            return;
+        }
+        publishLocally(event);
+    }
+
+    // A failing local listener must not take down the notification thread
+    private void publishLocally(TaskChangeEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.warn("Failed to handle task change event {}", event, e);
+        }
+    }
+}
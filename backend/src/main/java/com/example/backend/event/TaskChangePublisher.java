@@ -0,0 +1,57 @@
+package com.example.backend.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Sends task change notifications to every instance sharing the database.
+ * <p>
+ * {@code pg_notify} is transactional: when called inside the transaction that
+ * changed the task, the notification is only delivered if that transaction
+ * commits, so other nodes never see changes that were rolled back.
+ * <p>
+ * The channel name must be a plain lowercase identifier: {@code LISTEN} folds
+ * unquoted names to lowercase while {@code pg_notify} uses the name as given,
+ * so anything else would leave publisher and listener on different channels.
+ */
+@Component
+public class TaskChangePublisher {
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TaskChangePublisher(JdbcTemplate jdbcTemplate,
+                               @Value("${tasks.events.enabled:true}") boolean enabled,
+                               @Value("${tasks.events.channel:task_changes}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException(
+                    "tasks.events.channel must match " + CHANNEL_NAME.pattern() + " but was '" + channel + "'");
+        }
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publish(TaskChangeEvent.Type type, Long taskId) {
+        if (!enabled) {
+            return;
+        }
+        String payload = new TaskChangeEvent(type, taskId, nodeId).toPayload();
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, channel, payload);
+    }
+}
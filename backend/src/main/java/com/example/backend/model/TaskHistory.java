@@ -0,0 +1,53 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "task_history", indexes = @Index(name = "idx_task_history_task_id", columnList = "task_id"))
+public class TaskHistory {
+
+    // Rows are inserted by TaskAuditService with nextval on this sequence
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_history_seq")
+    @SequenceGenerator(name = "task_history_seq", sequenceName = "task_history_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private String field;
+
+    @Column(length = 1000)
+    private String oldValue;
+
+    @Column(length = 1000)
+    private String newValue;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    protected TaskHistory() {
+    }
+
+    public TaskHistory(Long taskId, String field, Object oldValue, Object newValue, LocalDateTime changedAt) {
+        this.taskId = taskId;
+        this.field = field;
+        this.oldValue = oldValue == null ? null : oldValue.toString();
+        this.newValue = newValue == null ? null : newValue.toString();
+        this.changedAt = changedAt;
+    }
+
+    public Long getId() { return id; }
+
+    public Long getTaskId() { return taskId; }
+
+    public String getField() { return field; }
+
+    public String getOldValue() { return oldValue; }
+
+    public String getNewValue() { return newValue; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.TaskHistory;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TaskHistoryRepository extends JpaRepository<TaskHistory, Long> {
+	List<TaskHistory> findByTaskIdOrderByChangedAtAscIdAsc(Long taskId);
+}
@@ -0,0 +1,164 @@
+package com.example.backend.service;
+
+import com.example.backend.model.TaskHistory;
+import com.example.backend.repository.TaskHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes task history off the request path.
+ * <p>
+ * Changes are put on a bounded lock-free queue once the originating transaction
+ * commits, and a scheduled flush appends them to {@code task_history} in batches.
+ * When the queue is full new changes are dropped and counted rather than
+ * slowing down the request. A batch that fails to write is retried on the next
+ * flush and only dropped after {@code max-attempts} failures. History therefore
+ * lags writes by at least one flush interval.
+ * <p>
+ * Batches are written with a plain JDBC batch insert in one transaction rather
+ * than {@code saveAll}: JPA would assign ids to the entities on persist and keep
+ * them after a failed commit, turning every retry into a failing merge.
+ */
+@Service
+public class TaskAuditService {
+    private static final Logger log = LoggerFactory.getLogger(TaskAuditService.class);
+    private static final String INSERT_SQL = "INSERT INTO task_history "
+            + "(id, task_id, field, old_value, new_value, changed_at) "
+            + "VALUES (nextval('task_history_seq'), ?, ?, ?, ?, ?)";
+
+    private final TaskHistoryRepository historyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Queue<TaskHistory> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is O(n), so depth is tracked separately and also enforces the bound.
+    // It includes the pending batch until that batch is written or given up.
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    // Guarded by flush(); a failed batch stays here and is retried before polling the queue again
+    private List<TaskHistory> pendingBatch = new ArrayList<>();
+    private int pendingAttempts;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    public TaskAuditService(TaskHistoryRepository historyRepository,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${tasks.audit.queue-capacity:10000}") int queueCapacity,
+                            @Value("${tasks.audit.batch-size:50}") int batchSize,
+                            @Value("${tasks.audit.max-attempts:3}") int maxAttempts) {
+        this.historyRepository = historyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        Gauge.builder("tasks.audit.queue.depth", queueDepth, AtomicInteger::get)
+                .description("Task history records waiting to be written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("tasks.audit.dropped")
+                .description("Task history records dropped because the queue was full or the write failed")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("tasks.audit.written")
+                .description("Task history records written")
+                .register(meterRegistry);
+    }
+
+    public void record(List<TaskHistory> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        // Only keep history for changes that actually commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(changes);
+                }
+            });
+        } else {
+            enqueue(changes);
+        }
+    }
+
+    private void enqueue(List<TaskHistory> changes) {
+        for (TaskHistory change : changes) {
+            if (queueDepth.incrementAndGet() > queueCapacity) {
+                queueDepth.decrementAndGet();
+                droppedCounter.increment();
+            } else {
+                queue.offer(change);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.audit.flush-interval-ms:200}")
+    public synchronized void flush() {
+        while (true) {
+            if (pendingBatch.isEmpty()) {
+                TaskHistory change;
+                while (pendingBatch.size() < batchSize && (change = queue.poll()) != null) {
+                    pendingBatch.add(change);
+                }
+                if (pendingBatch.isEmpty()) {
+                    return;
+                }
+            }
+            int size = pendingBatch.size();
+            try {
+                write(pendingBatch);
+                writtenCounter.increment(size);
+            } catch (RuntimeException e) {
+                if (++pendingAttempts < maxAttempts) {
+                    log.warn("Failed to write {} task history records, retrying on next flush", size, e);
+                    return;
+                }
+                log.error("Dropping {} task history records after {} failed attempts", size, pendingAttempts, e);
+                droppedCounter.increment(size);
+            }
+            queueDepth.addAndGet(-size);
+            pendingBatch = new ArrayList<>(batchSize);
+            pendingAttempts = 0;
+        }
+    }
+
+    private void write(List<TaskHistory> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, change) -> {
+                    ps.setLong(1, change.getTaskId());
+                    ps.setString(2, change.getField());
+                    ps.setString(3, change.getOldValue());
+                    ps.setString(4, change.getNewValue());
+                    ps.setObject(5, change.getChangedAt());
+                }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public List<TaskHistory> getHistory(Long taskId) {
+        return historyRepository.findByTaskIdOrderByChangedAtAscIdAsc(taskId);
+    }
+}
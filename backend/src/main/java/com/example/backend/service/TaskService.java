@@ -1,23 +1,39 @@
 package com.example.backend.service;
 
+import com.example.backend.event.TaskChangeEvent;
+import com.example.backend.event.TaskChangePublisher;
 import com.example.backend.exception.TaskNotFoundException;
 import com.example.backend.model.Task;
+import com.example.backend.model.TaskHistory;
 import com.example.backend.repository.TaskRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 public class TaskService {
     private final TaskRepository taskRepository;
+    private final TaskChangePublisher changePublisher;
+    private final TaskAuditService auditService;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskChangePublisher changePublisher,
+                       TaskAuditService auditService) {
         this.taskRepository = taskRepository;
+        this.changePublisher = changePublisher;
+        this.auditService = auditService;
     }
 
+    // Mutations are transactional so the change notification is only sent if the write commits
+    @Transactional
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        changePublisher.publish(TaskChangeEvent.Type.CREATED, saved.getId());
+        return saved;
     }
 
     public Optional<Task> getTaskById(Long id) {
@@ -28,36 +44,73 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    @Transactional
     public Task updateStatus(Long id, Task.Status newStatus) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        List<TaskHistory> changes = new ArrayList<>();
+        addChange(changes, id, "status", task.getStatus(), newStatus, LocalDateTime.now());
         task.setStatus(newStatus);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        changePublisher.publish(TaskChangeEvent.Type.UPDATED, id);
+        auditService.record(changes);
+        return saved;
     }
 
+    @Transactional
     public void deleteTask(Long id) {
+        // Only notify other nodes about tasks that actually existed
+        if (!taskRepository.existsById(id)) {
+            return;
+        }
         taskRepository.deleteById(id);
+        changePublisher.publish(TaskChangeEvent.Type.DELETED, id);
     }
     
     public List<Task> getTasksByStatus(Task.Status status) {
         return taskRepository.findByStatus(status);
     }
     
+    @Transactional
     public Task updateTask(Long id, Task updatedTask) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
 
+        List<TaskHistory> changes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
         if (updatedTask.getTitle() != null) {
+            addChange(changes, id, "title", task.getTitle(), updatedTask.getTitle(), now);
             task.setTitle(updatedTask.getTitle());
         }
         if (updatedTask.getDescription() != null) {
+            addChange(changes, id, "description", task.getDescription(), updatedTask.getDescription(), now);
             task.setDescription(updatedTask.getDescription());
         }
         if (updatedTask.getDueDateTime() != null) {
+            addChange(changes, id, "dueDateTime", task.getDueDateTime(), updatedTask.getDueDateTime(), now);
             task.setDueDateTime(updatedTask.getDueDateTime());
         }
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        changePublisher.publish(TaskChangeEvent.Type.UPDATED, id);
+        auditService.record(changes);
+        return saved;
+    }
+
+    // History outlives its task, so only a task with neither is not found
+    public List<TaskHistory> getTaskHistory(Long id) {
+        List<TaskHistory> history = auditService.getHistory(id);
+        if (history.isEmpty() && !taskRepository.existsById(id)) {
+            throw new TaskNotFoundException("Task not found");
+        }
+        return history;
+    }
+
+    private static void addChange(List<TaskHistory> changes, Long id, String field,
+                                  Object oldValue, Object newValue, LocalDateTime changedAt) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.add(new TaskHistory(id, field, oldValue, newValue, changedAt));
+        }
     }
 
 }
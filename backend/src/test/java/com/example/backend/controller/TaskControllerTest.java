@@ -2,6 +2,7 @@ package com.example.backend.controller;
 
 import com.example.backend.exception.TaskNotFoundException;
 import com.example.backend.model.Task;
+import com.example.backend.model.TaskHistory;
 import com.example.backend.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -157,6 +158,34 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void testGetTaskHistory() throws Exception {
+        TaskHistory change = new TaskHistory(1L, "status", Task.Status.PENDING, Task.Status.COMPLETED,
+                LocalDateTime.of(2025, 10, 26, 12, 0));
+
+        when(taskService.getTaskHistory(1L)).thenReturn(List.of(change));
+
+        mockMvc.perform(get("/api/tasks/{id}/history", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].field").value("status"))
+                .andExpect(jsonPath("$[0].oldValue").value("PENDING"))
+                .andExpect(jsonPath("$[0].newValue").value("COMPLETED"));
+
+        verify(taskService, times(1)).getTaskHistory(1L);
+    }
+
+    @Test
+    void testGetTaskHistory_NotFound() throws Exception {
+        when(taskService.getTaskHistory(1L)).thenThrow(new TaskNotFoundException("Task not found"));
+
+        mockMvc.perform(get("/api/tasks/{id}/history", 1L))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertThat(result.getResolvedException())
+                        .isInstanceOf(TaskNotFoundException.class)
+                        .hasMessage("Task not found"));
+    }
+
     @Test
     void testGetAllTasks() throws Exception {
         Task task1 = new Task();
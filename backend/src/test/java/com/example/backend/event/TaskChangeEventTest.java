@@ -0,0 +1,45 @@
+package com.example.backend.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskChangeEventTest {
+
+    @Test
+    void testPayloadRoundTrip() {
+        TaskChangeEvent event = new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, 42L, "node-a");
+
+        String payload = event.toPayload();
+
+        assertThat(payload).isEqualTo("UPDATED:42:node-a");
+        assertThat(TaskChangeEvent.fromPayload(payload)).isEqualTo(event);
+    }
+
+    @Test
+    void testPayloadRoundTrip_ResyncWithoutTaskId() {
+        TaskChangeEvent event = new TaskChangeEvent(TaskChangeEvent.Type.RESYNC, null, "node");
+
+        assertThat(event.toPayload()).isEqualTo("RESYNC::node");
+        assertThat(TaskChangeEvent.fromPayload("RESYNC::node")).isEqualTo(event);
+    }
+
+    @Test
+    void testFromPayload_Malformed() {
+        assertThatThrownBy(() -> TaskChangeEvent.fromPayload("UPDATED:42"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Malformed task change payload: UPDATED:42");
+    }
+
+    @Test
+    void testFromPayload_UnknownType() {
+        assertThatThrownBy(() -> TaskChangeEvent.fromPayload("RENAMED:42:node"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testFromPayload_NonNumericTaskId() {
+        assertThatThrownBy(() -> TaskChangeEvent.fromPayload("UPDATED:abc:node"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
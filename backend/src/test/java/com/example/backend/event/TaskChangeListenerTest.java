@@ -0,0 +1,91 @@
+package com.example.backend.event;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.model.Task;
+import com.example.backend.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application contexts against the local Postgres database configured
+ * in application.properties, so only runs when TASK_DB_PASSWORD is set.
+ */
+@EnabledIfEnvironmentVariable(named = "TASK_DB_PASSWORD", matches = ".+")
+class TaskChangeListenerTest {
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private final BlockingQueue<TaskChangeEvent> receivedByA = new LinkedBlockingQueue<>();
+    private final BlockingQueue<TaskChangeEvent> receivedByB = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode(receivedByA);
+        nodeB = startNode(receivedByB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void testChangesOnOneNodeReachBothNodes() throws Exception {
+        TaskService serviceA = nodeA.getBean(TaskService.class);
+        String originA = nodeA.getBean(TaskChangePublisher.class).getNodeId();
+
+        Task task = new Task();
+        task.setTitle("Shared Task");
+        task.setStatus(Task.Status.PENDING);
+        task.setDueDateTime(LocalDateTime.now().plusDays(1));
+        Long id = serviceA.createTask(task).getId();
+
+        serviceA.updateStatus(id, Task.Status.COMPLETED);
+        serviceA.deleteTask(id);
+
+        for (BlockingQueue<TaskChangeEvent> received : List.of(receivedByA, receivedByB)) {
+            assertThat(nextFor(received, id)).isEqualTo(new TaskChangeEvent(TaskChangeEvent.Type.CREATED, id, originA));
+            assertThat(nextFor(received, id)).isEqualTo(new TaskChangeEvent(TaskChangeEvent.Type.UPDATED, id, originA));
+            assertThat(nextFor(received, id)).isEqualTo(new TaskChangeEvent(TaskChangeEvent.Type.DELETED, id, originA));
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(BlockingQueue<TaskChangeEvent> received) {
+        ApplicationListener<ApplicationEvent> collector = event -> {
+            if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                    && payloadEvent.getPayload() instanceof TaskChangeEvent change) {
+                received.add(change);
+            }
+        };
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .listeners(collector)
+                .run("--server.port=0", "--spring.jpa.show-sql=false");
+    }
+
+    // Other test runs may share the database, so skip events for unrelated tasks
+    private static TaskChangeEvent nextFor(BlockingQueue<TaskChangeEvent> received, Long id) throws InterruptedException {
+        while (true) {
+            TaskChangeEvent event = received.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("change notification for task %d", id).isNotNull();
+            if (id.equals(event.taskId())) {
+                return event;
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.*;
+
+class TaskChangePublisherTest {
+
+    @Test
+    void testPublish() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TaskChangePublisher publisher = new TaskChangePublisher(jdbcTemplate, true, "task_changes");
+
+        publisher.publish(TaskChangeEvent.Type.UPDATED, 1L);
+
+        verify(jdbcTemplate, times(1)).query(eq("SELECT pg_notify(?, ?)"), any(RowCallbackHandler.class),
+                eq("task_changes"), eq("UPDATED:1:" + publisher.getNodeId()));
+    }
+
+    @Test
+    void testPublish_Disabled() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        TaskChangePublisher publisher = new TaskChangePublisher(jdbcTemplate, false, "task_changes");
+
+        publisher.publish(TaskChangeEvent.Type.UPDATED, 1L);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testInvalidChannelName() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        assertThatThrownBy(() -> new TaskChangePublisher(jdbcTemplate, true, "TaskChanges"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("tasks.events.channel");
+        assertThatThrownBy(() -> new TaskChangePublisher(jdbcTemplate, true, "task-changes"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
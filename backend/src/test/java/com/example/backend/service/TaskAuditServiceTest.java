@@ -0,0 +1,202 @@
+package com.example.backend.service;
+
+import com.example.backend.model.TaskHistory;
+import com.example.backend.repository.TaskHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.*;
+import static org.assertj.core.api.Assertions.*;
+
+class TaskAuditServiceTest {
+
+    private TaskHistoryRepository historyRepository;
+    private JdbcTemplate jdbcTemplate;
+    private FlakyTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskAuditService auditService;
+
+    // Fails the next N commits after the batch insert has run, then rolls back like a real commit failure
+    private static class FlakyTransactionManager extends DataSourceTransactionManager {
+        private static final long serialVersionUID = 1L;
+        private int commitsToFail;
+
+        FlakyTransactionManager(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (commitsToFail > 0) {
+                commitsToFail--;
+                throw new TransactionSystemException("Simulated commit failure");
+            }
+            super.doCommit(status);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE SEQUENCE task_history_seq START WITH 1 INCREMENT BY 50");
+        jdbcTemplate.execute("""
+                CREATE TABLE task_history (
+                    id BIGINT PRIMARY KEY,
+                    task_id BIGINT NOT NULL,
+                    field VARCHAR(255) NOT NULL,
+                    old_value VARCHAR(1000),
+                    new_value VARCHAR(1000),
+                    changed_at TIMESTAMP NOT NULL
+                )""");
+        transactionManager = new FlakyTransactionManager(dataSource);
+        historyRepository = mock(TaskHistoryRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        auditService = new TaskAuditService(historyRepository, jdbcTemplate,
+                new TransactionTemplate(transactionManager), meterRegistry, 5, 2, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<TaskHistory> changes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new TaskHistory(1L, "title", "Old " + i, "New " + i, LocalDateTime.now()))
+                .toList();
+    }
+
+    private double queueDepth() {
+        return meterRegistry.get("tasks.audit.queue.depth").gauge().value();
+    }
+
+    private double dropped() {
+        return meterRegistry.get("tasks.audit.dropped").counter().count();
+    }
+
+    private double written() {
+        return meterRegistry.get("tasks.audit.written").counter().count();
+    }
+
+    private List<String> storedNewValues() {
+        return jdbcTemplate.queryForList("SELECT new_value FROM task_history ORDER BY new_value", String.class);
+    }
+
+    @Test
+    void testRecord_QueuesUntilFlush() {
+        auditService.record(changes(3));
+
+        assertThat(queueDepth()).isEqualTo(3);
+        assertThat(storedNewValues()).isEmpty();
+    }
+
+    @Test
+    void testRecord_QueuesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditService.record(changes(2));
+
+        assertThat(queueDepth()).isZero();
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        assertThat(queueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecord_DiscardedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        auditService.record(changes(2));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    void testFlush_WritesInBatches() {
+        auditService.record(changes(5));
+
+        auditService.flush();
+
+        assertThat(storedNewValues()).containsExactly("New 0", "New 1", "New 2", "New 3", "New 4");
+        assertThat(queueDepth()).isZero();
+        assertThat(written()).isEqualTo(5);
+    }
+
+    @Test
+    void testRecord_DropsWhenQueueFull() {
+        auditService.record(changes(7));
+
+        assertThat(queueDepth()).isEqualTo(5);
+        assertThat(dropped()).isEqualTo(2);
+    }
+
+    @Test
+    void testFlush_RetriesBatchAfterFailedCommit() {
+        transactionManager.commitsToFail = 1;
+        auditService.record(changes(4));
+
+        auditService.flush();
+
+        assertThat(storedNewValues()).isEmpty();
+        assertThat(queueDepth()).isEqualTo(4);
+        assertThat(dropped()).isZero();
+
+        auditService.flush();
+
+        assertThat(storedNewValues()).containsExactly("New 0", "New 1", "New 2", "New 3");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM task_history", Integer.class))
+                .isEqualTo(4);
+        assertThat(queueDepth()).isZero();
+        assertThat(written()).isEqualTo(4);
+        assertThat(dropped()).isZero();
+    }
+
+    @Test
+    void testFlush_DropsBatchAfterMaxAttempts() {
+        transactionManager.commitsToFail = Integer.MAX_VALUE;
+        auditService.record(changes(2));
+
+        auditService.flush();
+        auditService.flush();
+        assertThat(dropped()).isZero();
+
+        auditService.flush();
+
+        assertThat(queueDepth()).isZero();
+        assertThat(dropped()).isEqualTo(2);
+        assertThat(storedNewValues()).isEmpty();
+    }
+
+    @Test
+    void testGetHistory() {
+        List<TaskHistory> history = changes(2);
+        when(historyRepository.findByTaskIdOrderByChangedAtAscIdAsc(1L)).thenReturn(history);
+
+        assertThat(auditService.getHistory(1L)).isEqualTo(history);
+    }
+}
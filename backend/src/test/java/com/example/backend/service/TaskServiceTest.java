@@ -1,10 +1,14 @@
 package com.example.backend.service;
 
+import com.example.backend.event.TaskChangeEvent;
+import com.example.backend.event.TaskChangePublisher;
 import com.example.backend.exception.TaskNotFoundException;
 import com.example.backend.model.Task;
+import com.example.backend.model.TaskHistory;
 import com.example.backend.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,12 +20,16 @@ import static org.assertj.core.api.Assertions.*;
 class TaskServiceTest {
 
     private TaskRepository taskRepository;
+    private TaskChangePublisher changePublisher;
+    private TaskAuditService auditService;
     private TaskService taskService;
 
     @BeforeEach
     void setUp() {
         taskRepository = mock(TaskRepository.class);
-        taskService = new TaskService(taskRepository);
+        changePublisher = mock(TaskChangePublisher.class);
+        auditService = mock(TaskAuditService.class);
+        taskService = new TaskService(taskRepository, changePublisher, auditService);
     }
 
     @Test
@@ -41,6 +49,7 @@ class TaskServiceTest {
         assertThat(result.getDueDateTime()).isEqualTo(testDueDateTime);
         assertThat(result.getStatus()).isEqualTo(Task.Status.PENDING);
         verify(taskRepository, times(1)).save(task);
+        verify(changePublisher, times(1)).publish(TaskChangeEvent.Type.CREATED, task.getId());
     }
     
     @Test
@@ -57,6 +66,19 @@ class TaskServiceTest {
 
         assertThat(result.getStatus()).isEqualTo(Task.Status.COMPLETED);
         verify(taskRepository, times(1)).save(task);
+        verify(changePublisher, times(1)).publish(TaskChangeEvent.Type.UPDATED, 1L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskHistory>> changes = ArgumentCaptor.forClass(List.class);
+        verify(auditService, times(1)).record(changes.capture());
+        assertThat(changes.getValue())
+            .singleElement()
+            .satisfies(change -> {
+                assertThat(change.getTaskId()).isEqualTo(1L);
+                assertThat(change.getField()).isEqualTo("status");
+                assertThat(change.getOldValue()).isEqualTo("PENDING");
+                assertThat(change.getNewValue()).isEqualTo("COMPLETED");
+            });
     }
     
     @Test
@@ -68,6 +90,8 @@ class TaskServiceTest {
                 .hasMessage("Task not found");
 
         verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(changePublisher);
+        verifyNoInteractions(auditService);
     }
     
     @Test
@@ -118,11 +142,23 @@ class TaskServiceTest {
 
     @Test
     void testDeleteTask() {
+        when(taskRepository.existsById(1L)).thenReturn(true);
         doNothing().when(taskRepository).deleteById(1L);
 
         taskService.deleteTask(1L);
 
         verify(taskRepository, times(1)).deleteById(1L);
+        verify(changePublisher, times(1)).publish(TaskChangeEvent.Type.DELETED, 1L);
+    }
+
+    @Test
+    void testDeleteTask_NotFound() {
+        when(taskRepository.existsById(1L)).thenReturn(false);
+
+        taskService.deleteTask(1L);
+
+        verify(taskRepository, never()).deleteById(1L);
+        verifyNoInteractions(changePublisher);
     }
     
     @Test
@@ -180,8 +216,61 @@ class TaskServiceTest {
         assertThat(result.getStatus()).isEqualTo(Task.Status.PENDING);
         assertThat(result.getDueDateTime()).isEqualTo(newDueDate);
         verify(taskRepository, times(1)).save(task);
+        verify(changePublisher, times(1)).publish(TaskChangeEvent.Type.UPDATED, 1L);
+    }
+
+    @Test
+    void testUpdateTask_RecordsChangedFields() {
+        Task task = new Task();
+        task.setId(1L);
+        task.setTitle("Test Task");
+        task.setDescription("Same description");
+        task.setStatus(Task.Status.PENDING);
+
+        Task updatedTask = new Task();
+        updatedTask.setTitle("New Task Title");
+        updatedTask.setDescription("Same description");
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        taskService.updateTask(1L, updatedTask);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskHistory>> changes = ArgumentCaptor.forClass(List.class);
+        verify(auditService, times(1)).record(changes.capture());
+        assertThat(changes.getValue())
+            .extracting(TaskHistory::getField, TaskHistory::getOldValue, TaskHistory::getNewValue)
+            .containsExactly(tuple("title", "Test Task", "New Task Title"));
     }
 
+    @Test
+    void testGetTaskHistory() {
+        TaskHistory change = new TaskHistory(1L, "status", Task.Status.PENDING, Task.Status.COMPLETED, LocalDateTime.now());
+
+        when(auditService.getHistory(1L)).thenReturn(List.of(change));
+
+        assertThat(taskService.getTaskHistory(1L)).containsExactly(change);
+        verify(auditService, times(1)).getHistory(1L);
+    }
+
+    @Test
+    void testGetTaskHistory_NoChanges() {
+        when(auditService.getHistory(1L)).thenReturn(List.of());
+        when(taskRepository.existsById(1L)).thenReturn(true);
+
+        assertThat(taskService.getTaskHistory(1L)).isEmpty();
+    }
+
+    @Test
+    void testGetTaskHistory_NotFound() {
+        when(auditService.getHistory(1L)).thenReturn(List.of());
+        when(taskRepository.existsById(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> taskService.getTaskHistory(1L))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage("Task not found");
+    }
     
     @Test
     void testUpdateTask_NotFound() {